@@ -1,9 +1,15 @@
 package com.acgist.snail.gui.javafx.window.main;
 
 import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.acgist.snail.context.ITaskSession;
@@ -29,8 +35,8 @@ import com.acgist.snail.protocol.ProtocolContext;
 import com.acgist.snail.utils.FileUtils;
 import com.acgist.snail.utils.StringUtils;
 
-import javafx.application.Platform;
 import javafx.beans.binding.DoubleBinding;
+import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -112,6 +118,17 @@ public final class MainController extends Controller {
      * 任务列表显示筛选
      */
     private Filter filter = Filter.ALL;
+    /**
+     * 任务面板数据
+     * 任务ID=任务面板数据
+     * 只在FX线程使用：面板数据引用任务信息，所以不能使用弱引用，任务删除以后需要主动释放。
+     */
+    private final Map<String, TaskProperty> taskProperties = new HashMap<>();
+    /**
+     * 表格行
+     * 表格行是虚拟化复用的：数量和可见行数相近
+     */
+    private final Set<TableRow<ITaskSession>> taskRows = Collections.newSetFromMap(new WeakHashMap<>());
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -122,11 +139,11 @@ public final class MainController extends Controller {
         this.taskTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         this.taskTable.setPlaceholder(this.buildPlaceholder());
         // 设置列
-        this.taskCell(this.name,          Pos.CENTER_LEFT, true,  true,  this.taskTable.widthProperty().multiply(3D).divide(10D));
-        this.taskCell(this.status,        Pos.CENTER,      false, false, this.taskTable.widthProperty().multiply(1D).divide(10D));
-        this.taskCell(this.progress,      Pos.CENTER_LEFT, false, false, this.taskTable.widthProperty().multiply(2D).divide(10D));
-        this.taskCell(this.createDate,    Pos.CENTER,      false, false, this.taskTable.widthProperty().multiply(2D).divide(10D));
-        this.taskCell(this.completedDate, Pos.CENTER,      false, false, this.taskTable.widthProperty().multiply(2D).divide(10D));
+        this.taskCell(this.name,          TaskProperty::name,          Pos.CENTER_LEFT, true,  true,  this.taskTable.widthProperty().multiply(3D).divide(10D));
+        this.taskCell(this.status,        TaskProperty::status,        Pos.CENTER,      false, false, this.taskTable.widthProperty().multiply(1D).divide(10D));
+        this.taskCell(this.progress,      TaskProperty::progress,      Pos.CENTER_LEFT, false, false, this.taskTable.widthProperty().multiply(2D).divide(10D));
+        this.taskCell(this.createDate,    TaskProperty::createDate,    Pos.CENTER,      false, false, this.taskTable.widthProperty().multiply(2D).divide(10D));
+        this.taskCell(this.completedDate, TaskProperty::completedDate, Pos.CENTER,      false, false, this.taskTable.widthProperty().multiply(2D).divide(10D));
         // 设置行
         this.taskTable.setRowFactory(this.rowFactory);
         // 绑定属性
@@ -256,8 +273,12 @@ public final class MainController extends Controller {
      * 重新设置表格数据
      */
     public void refreshTaskList() {
+        final List<ITaskSession> allTask = TaskContext.getInstance().allTask();
+        // 释放已经删除任务面板数据
+        final Set<String> ids = allTask.stream().map(ITaskSession::getId).collect(Collectors.toSet());
+        this.taskProperties.keySet().retainAll(ids);
         final ObservableList<ITaskSession> obs = FXCollections.observableArrayList();
-        TaskContext.getInstance().allTask().stream()
+        allTask.stream()
             .filter(session -> {
                 if(this.filter == Filter.ALL) {
                     return true;
@@ -275,13 +296,33 @@ public final class MainController extends Controller {
     
     /**
      * 刷新任务状态
-     * 不设置表格数据，只刷新任务状态。
+     * 不设置表格数据，只刷新可见并且改变的任务状态。
+     * 注意：需要在FX线程执行
+     * 
+     * @return 刷新任务数量
      */
-    public void refreshTaskStatus() {
-        // 刷新Table
-        this.taskTable.refresh();
+    public int refreshTaskStatus() {
+        int count = 0;
+        for (TableRow<ITaskSession> row : this.taskRows) {
+            final ITaskSession session = row.getItem();
+            if(session != null && row.isVisible() && this.taskProperty(session).refresh()) {
+                count++;
+            }
+        }
         // 上传速度
-        Platform.runLater(() -> this.uploadBuffer.setText(FileUtils.formatSpeed(StatisticsContext.getInstance().getUploadSpeed())));
+        this.uploadBuffer.setText(FileUtils.formatSpeed(StatisticsContext.getInstance().getUploadSpeed()));
+        return count;
+    }
+    
+    /**
+     * 获取任务面板数据
+     * 
+     * @param session 任务信息
+     * 
+     * @return 任务面板数据
+     */
+    private TaskProperty taskProperty(ITaskSession session) {
+        return this.taskProperties.computeIfAbsent(session.getId(), id -> TaskProperty.newInstance(session));
     }
     
     /**
@@ -342,7 +383,10 @@ public final class MainController extends Controller {
         }
         final Optional<ButtonType> optional = Alerts.build("删除确认", "删除选中任务？", GuiContext.MessageType.CONFIRM);
         if(Alerts.ok(optional)) {
-            this.selected().forEach(ITaskSession::delete);
+            this.selected().forEach(session -> {
+                session.delete();
+                this.taskProperties.remove(session.getId());
+            });
         }
     }
 
@@ -350,15 +394,22 @@ public final class MainController extends Controller {
      * 设置列
      * 
      * @param column       列
+     * @param value        列数据
      * @param pos          对齐方式
      * @param icon         是否显示Icon
      * @param tooltip      是否显示Tooltip
      * @param widthBinding 宽度绑定
      */
-    private void taskCell(TableColumn<ITaskSession, String> column, Pos pos, boolean icon, boolean tooltip, DoubleBinding widthBinding) {
+    private void taskCell(TableColumn<ITaskSession, String> column, Function<TaskProperty, StringProperty> value, Pos pos, boolean icon, boolean tooltip, DoubleBinding widthBinding) {
         // 禁止修改大小
         column.setResizable(false);
         column.prefWidthProperty().bind(widthBinding);
+        // 单元格显示时更新改变的任务
+        column.setCellValueFactory(data -> {
+            final TaskProperty property = this.taskProperty(data.getValue());
+            property.refresh();
+            return value.apply(property);
+        });
         column.setCellFactory(tableColumn -> new TaskTableCell(pos, icon, tooltip));
     }
     
@@ -367,6 +418,7 @@ public final class MainController extends Controller {
      */
     private Callback<TableView<ITaskSession>, TableRow<ITaskSession>> rowFactory = tableView -> {
         final TableRow<ITaskSession> row = new TableRow<>();
+        this.taskRows.add(row);
         // 右键菜单
         row.setContextMenu(TaskMenu.getInstance());
         // 左键双击
@@ -8,6 +8,7 @@ import com.acgist.snail.gui.javafx.window.statistics.StatisticsWindow;
 import javafx.scene.input.KeyCode;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 
 /**
  * 主窗口
@@ -37,6 +38,8 @@ public final class MainWindow extends Window<MainController> {
         this.keyReleased(KeyCode.F1, () -> Desktops.browse(SystemConfig.getSupport()));
         // F12：统计
         this.keyReleased(KeyCode.F12, () -> StatisticsWindow.getInstance().show());
+        // 显示窗口：刷新隐藏期间改变的任务
+        stage.addEventHandler(WindowEvent.WINDOW_SHOWN, event -> TaskDisplay.getInstance().refreshTaskStatus());
     }
     
     @Override
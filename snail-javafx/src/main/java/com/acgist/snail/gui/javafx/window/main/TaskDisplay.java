@@ -1,14 +1,19 @@
 package com.acgist.snail.gui.javafx.window.main;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.acgist.snail.config.SystemConfig;
 import com.acgist.snail.context.SystemThreadContext;
 import com.acgist.snail.logger.Logger;
 import com.acgist.snail.logger.LoggerFactory;
 
+import javafx.application.Platform;
+
 /**
  * 任务列表刷新器
+ * 定时刷新和任务状态事件合并执行：同时只有一个刷新任务等待FX线程执行
+ * 窗口隐藏时暂停刷新：任务数据快照保留改变，窗口显示以后刷新。
  * 
  * @author acgist
  */
@@ -30,6 +35,10 @@ public final class TaskDisplay {
      * 初始化锁
      */
     private final Object lock = new Object();
+    /**
+     * 是否等待刷新
+     */
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
     
     private TaskDisplay() {
     }
@@ -66,9 +75,24 @@ public final class TaskDisplay {
     
     /**
      * 刷新任务状态
+     * 只刷新可见并且改变的任务
      */
     public void refreshTaskStatus() {
-        this.getController().refreshTaskStatus();
+        final MainController mainController = this.getController();
+        if(!MainWindow.getInstance().isShowing()) {
+            // 窗口隐藏：暂停刷新
+            return;
+        }
+        if(this.refreshing.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                try {
+                    final int count = mainController.refreshTaskStatus();
+                    LOGGER.debug("刷新任务状态：{}", count);
+                } finally {
+                    this.refreshing.set(false);
+                }
+            });
+        }
     }
     
     /**
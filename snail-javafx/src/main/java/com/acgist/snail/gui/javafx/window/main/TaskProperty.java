@@ -0,0 +1,128 @@
+package com.acgist.snail.gui.javafx.window.main;
+
+import com.acgist.snail.context.ITaskSession;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+/**
+ * 任务面板数据
+ * 使用可观察属性绑定单元格：数据改变时单元格自动刷新（不用刷新整个表格）
+ * 注意：只能在FX线程修改
+ * 
+ * @author acgist
+ */
+public final class TaskProperty {
+    
+    /**
+     * 任务信息
+     */
+    private final ITaskSession taskSession;
+    /**
+     * 任务名称
+     */
+    private final StringProperty name;
+    /**
+     * 任务状态
+     */
+    private final StringProperty status;
+    /**
+     * 任务进度
+     */
+    private final StringProperty progress;
+    /**
+     * 创建时间
+     */
+    private final StringProperty createDate;
+    /**
+     * 完成时间
+     */
+    private final StringProperty completedDate;
+    
+    /**
+     * @param taskSession 任务信息
+     */
+    private TaskProperty(ITaskSession taskSession) {
+        this.taskSession   = taskSession;
+        this.name          = new SimpleStringProperty();
+        this.status        = new SimpleStringProperty();
+        this.progress      = new SimpleStringProperty();
+        this.createDate    = new SimpleStringProperty();
+        this.completedDate = new SimpleStringProperty();
+    }
+    
+    /**
+     * 新建任务面板数据
+     * 
+     * @param taskSession 任务信息
+     * 
+     * @return {@link TaskProperty}
+     */
+    public static final TaskProperty newInstance(ITaskSession taskSession) {
+        final TaskProperty property = new TaskProperty(taskSession);
+        property.taskSession.changed();
+        property.update();
+        return property;
+    }
+    
+    /**
+     * 任务改变时更新面板数据
+     * 
+     * @return 是否更新
+     */
+    public boolean refresh() {
+        if(this.taskSession.changed()) {
+            this.update();
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * 更新面板数据
+     * 属性值没有改变不会通知单元格
+     */
+    private void update() {
+        this.name.set(this.taskSession.getNameValue());
+        this.status.set(this.taskSession.getStatusValue());
+        this.progress.set(this.taskSession.getProgressValue());
+        this.createDate.set(this.taskSession.getCreateDateValue());
+        this.completedDate.set(this.taskSession.getCompletedDateValue());
+    }
+    
+    /**
+     * @return 任务名称
+     */
+    public StringProperty name() {
+        return this.name;
+    }
+    
+    /**
+     * @return 任务状态
+     */
+    public StringProperty status() {
+        return this.status;
+    }
+    
+    /**
+     * @return 任务进度
+     */
+    public StringProperty progress() {
+        return this.progress;
+    }
+    
+    /**
+     * @return 创建时间
+     */
+    public StringProperty createDate() {
+        return this.createDate;
+    }
+    
+    /**
+     * @return 完成时间
+     */
+    public StringProperty completedDate() {
+        return this.completedDate;
+    }
+
+}
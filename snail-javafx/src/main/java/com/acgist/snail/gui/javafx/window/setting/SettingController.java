@@ -10,6 +10,7 @@ import com.acgist.snail.gui.javafx.Choosers;
 import com.acgist.snail.gui.javafx.Desktops;
 import com.acgist.snail.gui.javafx.Tooltips;
 import com.acgist.snail.gui.javafx.window.Controller;
+import com.acgist.snail.net.torrent.TorrentContext;
 
 import javafx.beans.value.ChangeListener;
 import javafx.event.ActionEvent;
@@ -52,6 +53,8 @@ public final class SettingController extends Controller {
     private CheckBox notice;
     @FXML
     private CheckBox delete;
+    @FXML
+    private CheckBox superSeed;
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -98,6 +101,18 @@ public final class SettingController extends Controller {
         DownloadConfig.setDelete(this.delete.isSelected());
     }
     
+    /**
+     * 超级做种：同时修改正在上传的BT任务
+     * 
+     * @param event 事件
+     */
+    @FXML
+    public void handleSuperSeedAction(ActionEvent event) {
+        final boolean superSeed = this.superSeed.isSelected();
+        DownloadConfig.setSuperSeed(superSeed);
+        TorrentContext.getInstance().allTorrentSession().forEach(session -> session.superSeed(superSeed));
+    }
+    
     /**
      * 初始化配置
      */
@@ -108,6 +123,7 @@ public final class SettingController extends Controller {
         this.memoryBuffer.setValue(DownloadConfig.getMemoryBuffer());
         this.notice.setSelected(DownloadConfig.getNotice());
         this.delete.setSelected(DownloadConfig.getDelete());
+        this.superSeed.setSelected(DownloadConfig.getSuperSeed());
     }
     
     /**
@@ -28,6 +28,8 @@ import com.acgist.snail.net.torrent.TorrentContext;
 import com.acgist.snail.net.torrent.TorrentSession;
 import com.acgist.snail.net.torrent.dht.NodeContext;
 import com.acgist.snail.net.torrent.dht.NodeSession;
+import com.acgist.snail.net.torrent.peer.PeerConnect;
+import com.acgist.snail.net.torrent.peer.PeerConnectContext;
 import com.acgist.snail.net.torrent.peer.PeerContext;
 import com.acgist.snail.net.torrent.peer.PeerSession;
 import com.acgist.snail.net.torrent.tracker.TrackerContext;
@@ -359,11 +361,13 @@ public final class StatisticsController extends Controller {
      */
     private void buildSelectSystemStatistics() {
         final Runtime runtime = Runtime.getRuntime();
+        final PeerConnectContext peerConnectContext = PeerConnectContext.getInstance();
         final VBox systemInfo = new VBox(
             this.buildTextFlow("本机IP：", NetUtils.LOCAL_HOST_ADDRESS),
             this.buildTextFlow("外网IP：", SystemConfig.getExternalIPAddress()),
             this.buildTextFlow("外网端口：", SystemConfig.getTorrentPortExt()),
             this.buildTextFlow("内网穿透：", NatContext.getInstance().getType()),
+            this.buildTextFlow("Peer连接：", String.format("%d/%d（峰值：%d）", peerConnectContext.size(), peerConnectContext.maxSize(), peerConnectContext.peakSize())),
             this.buildTextFlow("软件版本：", SystemConfig.getVersion()),
             this.buildTextFlow("线程总量：", ThreadUtils.activeCount()),
             this.buildTextFlow("内存空闲：", FileUtils.formatSize(runtime.freeMemory())),
@@ -611,8 +615,15 @@ public final class StatisticsController extends Controller {
         final BitSet downloadPeers = new BitSet();
         final BitSet exchangePeers = new BitSet();
         final BitSet indifferencePeers = new BitSet();
+        int connectSize       = 0;
+        long requestQueueSize = 0L;
         for (int index = 0; index < peerSize; index++) {
             peer = peers.get(index);
+            final PeerConnect peerConnect = peer.peerConnect();
+            if(peerConnect != null) {
+                connectSize++;
+                requestQueueSize += peerConnect.peerConnectSession().requestQueueSize();
+            }
             final long uploadSize = peer.getUploadSize();
             final long downloadSize = peer.getDownloadSize();
             if(uploadSize != 0L && downloadSize != 0L) {
@@ -652,9 +663,10 @@ public final class StatisticsController extends Controller {
         .build()
         .draw();
         final String message = String.format(
-            "累计上传：%s 累计下载：%s",
+            "累计上传：%s 累计下载：%s 平均请求队列：%d",
             FileUtils.formatSize(torrentSession.statistics().getUploadSize()),
-            FileUtils.formatSize(torrentSession.statistics().getDownloadSize())
+            FileUtils.formatSize(torrentSession.statistics().getDownloadSize()),
+            connectSize == 0 ? 0L : requestQueueSize / connectSize
         );
         final HBox trafficBox = this.buildStatisticsInfo(message);
         final HBox painterBox = this.buildPainterInfo(tabs, colors);